@@ -2,8 +2,10 @@ package br.com.gameStore.gameStore;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class GameStoreApplication {
 
 	public static void main(String[] args) {
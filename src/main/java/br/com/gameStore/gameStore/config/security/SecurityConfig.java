@@ -32,11 +32,12 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
-                    .requestMatchers(HttpMethod.GET, "/games").hasRole("USER")
-                        .requestMatchers(HttpMethod.GET, "/games/*").hasRole("USER")
+                    .requestMatchers(HttpMethod.GET, "/games").hasRole("USUARIO")
+                        .requestMatchers(HttpMethod.GET, "/games/*").hasRole("USUARIO")
                         .requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
                         .requestMatchers(HttpMethod.POST, "/auth/register").permitAll()
                 .requestMatchers(HttpMethod.POST, "/games").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/games/stats/rebuild").hasRole("ADMIN")
                 .anyRequest().authenticated())
                 .addFilterBefore(verificarToken, UsernamePasswordAuthenticationFilter.class)
                 .build();
@@ -44,11 +44,13 @@ public class VerificarToken  extends OncePerRequestFilter {
         } else {
             token = authorizationHeader.replace("Bearer ", "").trim();
             String login =  TokenService.validateToken(token);
-            UserDetails usuario = usuarioRepository.findByEmail(login);
+            // token inválido/expirado (login vazio) ou usuário inexistente: segue sem autenticar e as regras do SecurityConfig negam o acesso
+            UserDetails usuario = login.isEmpty() ? null : usuarioRepository.findByEmail(login);
+            if (usuario != null) {
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(usuario, null, usuario.getAuthorities());
 
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(usuario, null, usuario.getAuthorities());
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
 
         }
         filterChain.doFilter(request, response);
@@ -24,6 +24,7 @@ import java.util.Objects;
 @RequestMapping("/auth")
 public class AuthController {
 
+    @Autowired
     private AuthenticationManager authenticationManager;
 
     @Autowired
@@ -1,8 +1,15 @@
 package br.com.gameStore.gameStore.controller;
 
+import br.com.gameStore.gameStore.dto.GamePrecosResponse;
+import br.com.gameStore.gameStore.dto.GameStatsResponse;
 import br.com.gameStore.gameStore.model.Game;
+import br.com.gameStore.gameStore.service.GamePrecoIndexService;
+import br.com.gameStore.gameStore.service.GamePrecosService;
 import br.com.gameStore.gameStore.service.GameService;
+import br.com.gameStore.gameStore.service.GameStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
@@ -17,6 +24,15 @@ public class GameController {
     @Autowired
     private GameService gameService;
 
+    @Autowired
+    private GameStatsService gameStatsService;
+
+    @Autowired
+    private GamePrecoIndexService gamePrecoIndexService;
+
+    @Autowired
+    private GamePrecosService gamePrecosService;
+
 
     // GET /games - Retorna uma lista de todos os jogos
     @GetMapping
@@ -32,7 +48,41 @@ public class GameController {
         return ResponseEntity.created(null).body(newGame);
     }
 
+    // GET /games/stats - Retorna quantidade, preço mínimo/máximo/médio e histograma de preços do catálogo
+    @GetMapping("/stats")
+    public ResponseEntity<GameStatsResponse> getStats() {
+        return ResponseEntity.ok(gameStatsService.getStats());
+    }
+
+    // POST /games/stats/rebuild - Recalcula as estatísticas (e o índice de preços) do catálogo a partir do banco
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<GameStatsResponse> rebuildStats() {
+        gamePrecosService.rebuild();
+        return ResponseEntity.ok(gameStatsService.getStats());
+    }
+
+    // GET /games/preco?min=&max=&limite= - Retorna ids e preços dos jogos na faixa de preço, do mais barato para o mais caro (sem max, não há limite superior)
+    @GetMapping("/preco")
+    public ResponseEntity<GamePrecosResponse> getByFaixaPreco(@RequestParam(defaultValue = "0") double min,
+                                                              @RequestParam(required = false) Double max,
+                                                              @RequestParam(defaultValue = "100") int limite) {
+        return ResponseEntity.ok(gamePrecoIndexService.findByFaixa(min, max == null ? Double.POSITIVE_INFINITY : max, limite));
+    }
+
+    // GET /games/mais-baratos?n= - Retorna ids e preços dos n jogos mais baratos
+    @GetMapping("/mais-baratos")
+    public ResponseEntity<GamePrecosResponse> getMaisBaratos(@RequestParam(defaultValue = "10") int n) {
+        return ResponseEntity.ok(gamePrecoIndexService.findMaisBaratos(n));
+    }
+
+    // GET /games/mais-caros?n= - Retorna ids e preços dos n jogos mais caros
+    @GetMapping("/mais-caros")
+    public ResponseEntity<GamePrecosResponse> getMaisCaros(@RequestParam(defaultValue = "10") int n) {
+        return ResponseEntity.ok(gamePrecoIndexService.findMaisCaros(n));
+    }
+
     // GET /games/{id} - Retorna um jogo específico pelo ID
+    @GetMapping("/{id}")
     public ResponseEntity<Game> getById(@PathVariable Long id) {
         Optional<Game> game = gameService.findById(id);
         if (game.isPresent()) {
@@ -41,5 +91,11 @@ public class GameController {
         return ResponseEntity.notFound().build();
     }
 
+    // POST /games concorrente para o mesmo jogo: outro save alterou a linha (versão) entre a leitura e o UPDATE
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Void> conflito() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
 
 }
@@ -0,0 +1,8 @@
+package br.com.gameStore.gameStore.dto;
+
+// DTO com o resultado das consultas por preço (faixa, mais baratos e mais caros).
+// Os arrays são paralelos: ids[i] tem o preço precos[i]. Arrays primitivos evitam boxing de cada item do resultado.
+public record GamePrecosResponse(
+        long[] ids,
+        double[] precos) {
+}
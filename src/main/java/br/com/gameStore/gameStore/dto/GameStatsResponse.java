@@ -0,0 +1,20 @@
+package br.com.gameStore.gameStore.dto;
+
+import java.util.List;
+
+// DTO com as estatísticas agregadas do catálogo de jogos retornadas por GET /games/stats.
+// Os valores de preço são nulos quando o catálogo está vazio.
+public record GameStatsResponse(
+        long total,
+        Double precoMinimo,
+        Double precoMaximo,
+        Double precoMedio,
+        List<FaixaPreco> histograma) {
+
+    // Faixa do histograma de preços: [de, ate). O campo ate é nulo na última faixa (sem limite superior).
+    public record FaixaPreco(
+            double de,
+            Double ate,
+            long quantidade) {
+    }
+}
@@ -4,6 +4,7 @@
     import jakarta.persistence.GeneratedValue;
     import jakarta.persistence.Id;
     import jakarta.persistence.Table;
+    import jakarta.persistence.Version;
 
     import java.util.Objects;
 
@@ -24,6 +25,10 @@
 
         private double preco;
 
+        // versão do registro, incrementada pelo próprio banco (lock otimista do JPA) a cada update;
+        // usada para reconciliar o snapshot do catálogo com o banco.
+        @Version
+        private long versao;
 
             public Game() {
             }
@@ -35,6 +40,11 @@
             this.preco = preco;
         }
 
+        public Game(Long id, String titulo, String descricao, double preco, long versao) {
+            this(id, titulo, descricao, preco);
+            this.versao = versao;
+        }
+
         public Long getId() {
             return id;
         }
@@ -67,16 +77,24 @@
             this.preco = preco;
         }
 
+        public long getVersao() {
+            return versao;
+        }
+
+        public void setVersao(long versao) {
+            this.versao = versao;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (o == null || getClass() != o.getClass()) return false;
             Game game = (Game) o;
-            return Double.compare(preco, game.preco) == 0 && Objects.equals(id, game.id) && Objects.equals(titulo, game.titulo) && Objects.equals(descricao, game.descricao);
+            return Double.compare(preco, game.preco) == 0 && versao == game.versao && Objects.equals(id, game.id) && Objects.equals(titulo, game.titulo) && Objects.equals(descricao, game.descricao);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(id, titulo, descricao, preco);
+            return Objects.hash(id, titulo, descricao, preco, versao);
         }
 
         @Override
@@ -86,6 +104,7 @@
                     ", titulo='" + titulo + '\'' +
                     ", descricao='" + descricao + '\'' +
                     ", preco=" + preco +
+                    ", versao=" + versao +
                     '}';
         }
     }
@@ -2,7 +2,20 @@ package br.com.gameStore.gameStore.repository;
 
 import br.com.gameStore.gameStore.model.Game;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 // Interface de repositório para a entidade Game, estendendo JpaRepository para fornecer operações CRUD básicas
 public interface GameRespository extends JpaRepository<Game, Long> {
+
+    // Retorna pares [id, versao] de todos os jogos ordenados por id, sem hidratar as entidades.
+    // Usado para reconciliar o snapshot local do catálogo com o banco.
+    @Query("select g.id, g.versao from Game g order by g.id")
+    List<Object[]> findAllVersoes();
+
+    // Retorna [id, preco, versao] de todos os jogos ordenados por preço e id, sem hidratar as entidades.
+    // Usado para montar o índice de preços e as estatísticas do catálogo em memória.
+    @Query("select g.id, g.preco, g.versao from Game g order by g.preco, g.id")
+    List<Object[]> findAllPrecosOrdenados();
 }
@@ -0,0 +1,10 @@
+package br.com.gameStore.gameStore.service;
+
+import br.com.gameStore.gameStore.model.Game;
+
+import java.util.List;
+
+// Evento publicado pelo GameSnapshotService a cada reconciliação com o banco, com os jogos novos ou alterados desde o snapshot anterior.
+// Inclui alterações feitas por outros nós, que não passam pelo GameService deste nó.
+public record CatalogoAlteradoEvent(List<Game> alterados) {
+}
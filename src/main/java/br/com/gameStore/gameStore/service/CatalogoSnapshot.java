@@ -0,0 +1,221 @@
+package br.com.gameStore.gameStore.service;
+
+import br.com.gameStore.gameStore.model.Game;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+
+// Snapshot binário e somente leitura do catálogo de jogos, mapeado em memória com NIO.
+// Formato do arquivo (big-endian):
+//   cabeçalho: int MAGIC, int FORMATO, int quantidade
+//   registros, ordenados por id: long id, long versao, double preco, int tamanho + bytes UTF-8 do titulo, int tamanho + bytes UTF-8 da descricao
+//   (tamanho -1 representa null)
+// Ao abrir o arquivo, apenas os ids, versões e posições dos registros são lidos para arrays primitivos;
+// os textos são decodificados direto do buffer mapeado a cada leitura.
+// Cada gravação cria um arquivo novo, <base>.<geracao>, em vez de substituir o anterior: um arquivo mapeado em memória
+// não pode ser substituído nem apagado no Windows enquanto o mapeamento existir. As gerações antigas são apagadas quando possível.
+final class CatalogoSnapshot {
+
+    private static final int MAGIC = 0x47534E50;
+    private static final int FORMATO = 1;
+
+    private final MappedByteBuffer mapa;
+    private final long[] ids;
+    private final long[] versoes;
+    private final int[] posicoes;
+
+    private CatalogoSnapshot(MappedByteBuffer mapa, long[] ids, long[] versoes, int[] posicoes) {
+        this.mapa = mapa;
+        this.ids = ids;
+        this.versoes = versoes;
+        this.posicoes = posicoes;
+    }
+
+    // mapeia o arquivo e monta o índice de ids. Lança IOException se o arquivo não for um snapshot válido.
+    static CatalogoSnapshot abrir(Path arquivo) throws IOException {
+        MappedByteBuffer mapa;
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+        try {
+            if (mapa.getInt(0) != MAGIC || mapa.getInt(4) != FORMATO) {
+                throw new IOException("Arquivo de snapshot inválido: " + arquivo);
+            }
+            int quantidade = mapa.getInt(8);
+            // cada registro ocupa ao menos 32 bytes (id, versao, preco e os dois tamanhos de texto)
+            if (quantidade < 0 || quantidade > (mapa.capacity() - 12) / 32) {
+                throw new IOException("Quantidade de jogos inválida no snapshot " + arquivo + ": " + quantidade);
+            }
+            long[] ids = new long[quantidade];
+            long[] versoes = new long[quantidade];
+            int[] posicoes = new int[quantidade];
+            int posicao = 12;
+            for (int i = 0; i < quantidade; i++) {
+                posicoes[i] = posicao;
+                ids[i] = mapa.getLong(posicao);
+                versoes[i] = mapa.getLong(posicao + 8);
+                posicao += 24;
+                posicao = pularTexto(mapa, posicao);
+                posicao = pularTexto(mapa, posicao);
+            }
+            return new CatalogoSnapshot(mapa, ids, versoes, posicoes);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Arquivo de snapshot truncado: " + arquivo, e);
+        }
+    }
+
+    // caminho da geração mais recente de snapshot gravada com esse nome base, se existir.
+    static Optional<Path> maisRecente(Path base) throws IOException {
+        long geracao = ultimaGeracao(base);
+        return geracao == 0 ? Optional.empty() : Optional.of(arquivoDaGeracao(base, geracao));
+    }
+
+    // grava os jogos (já ordenados por id) na próxima geração: primeiro em um arquivo temporário, que depois é movido
+    // atomicamente para o nome final. Retorna o caminho do arquivo gravado.
+    static Path gravar(Path base, List<Game> games) throws IOException {
+        Path diretorio = base.toAbsolutePath().getParent();
+        Files.createDirectories(diretorio);
+        Path arquivo = arquivoDaGeracao(base, ultimaGeracao(base) + 1);
+        Path temporario = Files.createTempFile(diretorio, base.getFileName().toString(), ".tmp");
+        try (OutputStream arquivoSaida = Files.newOutputStream(temporario);
+             DataOutputStream saida = new DataOutputStream(new BufferedOutputStream(arquivoSaida, 64 * 1024))) {
+            saida.writeInt(MAGIC);
+            saida.writeInt(FORMATO);
+            saida.writeInt(games.size());
+            for (Game game : games) {
+                saida.writeLong(game.getId());
+                saida.writeLong(game.getVersao());
+                saida.writeDouble(game.getPreco());
+                escreverTexto(saida, game.getTitulo());
+                escreverTexto(saida, game.getDescricao());
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temporario);
+            throw e;
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE);
+        return arquivo;
+    }
+
+    // apaga as gerações anteriores a atual. Falhas são ignoradas (ex: arquivo ainda mapeado no Windows);
+    // a limpeza é tentada de novo na próxima gravação.
+    static void removerAnteriores(Path base, Path atual) throws IOException {
+        long geracaoAtual = geracao(base, atual);
+        try (Stream<Path> arquivos = Files.list(base.toAbsolutePath().getParent())) {
+            for (Path arquivo : (Iterable<Path>) arquivos::iterator) {
+                long geracao = geracao(base, arquivo);
+                if (geracao > 0 && geracao < geracaoAtual) {
+                    try {
+                        Files.deleteIfExists(arquivo);
+                    } catch (IOException e) {
+                        // tenta de novo na próxima gravação
+                    }
+                }
+            }
+        }
+    }
+
+    private static long ultimaGeracao(Path base) throws IOException {
+        Path diretorio = base.toAbsolutePath().getParent();
+        if (!Files.isDirectory(diretorio)) {
+            return 0;
+        }
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.mapToLong(arquivo -> geracao(base, arquivo)).max().orElse(0);
+        }
+    }
+
+    private static Path arquivoDaGeracao(Path base, long geracao) {
+        return base.toAbsolutePath().resolveSibling(base.getFileName() + "." + geracao);
+    }
+
+    // número da geração do arquivo (<base>.<geracao>), ou 0 se o nome não seguir esse formato.
+    private static long geracao(Path base, Path arquivo) {
+        String prefixo = base.getFileName() + ".";
+        String nome = arquivo.getFileName().toString();
+        if (!nome.startsWith(prefixo) || nome.length() == prefixo.length()) {
+            return 0;
+        }
+        String sufixo = nome.substring(prefixo.length());
+        for (int i = 0; i < sufixo.length(); i++) {
+            if (!Character.isDigit(sufixo.charAt(i))) {
+                return 0;
+            }
+        }
+        try {
+            return Long.parseLong(sufixo);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    int tamanho() {
+        return ids.length;
+    }
+
+    // posição do id no snapshot, ou valor negativo se não existir (mesma convenção de Arrays.binarySearch).
+    int indice(long id) {
+        return Arrays.binarySearch(ids, id);
+    }
+
+    long id(int indice) {
+        return ids[indice];
+    }
+
+    long versao(int indice) {
+        return versoes[indice];
+    }
+
+    double preco(int indice) {
+        return mapa.getDouble(posicoes[indice] + 16);
+    }
+
+    Game ler(int indice) {
+        int posicao = posicoes[indice];
+        double preco = mapa.getDouble(posicao + 16);
+        posicao += 24;
+        String titulo = lerTexto(posicao);
+        posicao = pularTexto(mapa, posicao);
+        String descricao = lerTexto(posicao);
+        return new Game(ids[indice], titulo, descricao, preco, versoes[indice]);
+    }
+
+    private String lerTexto(int posicao) {
+        int tamanho = mapa.getInt(posicao);
+        if (tamanho < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[tamanho];
+        mapa.get(posicao + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int pularTexto(MappedByteBuffer mapa, int posicao) {
+        int tamanho = mapa.getInt(posicao);
+        return posicao + 4 + Math.max(tamanho, 0);
+    }
+
+    private static void escreverTexto(DataOutputStream saida, String texto) throws IOException {
+        if (texto == null) {
+            saida.writeInt(-1);
+            return;
+        }
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        saida.writeInt(bytes.length);
+        saida.write(bytes);
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.gameStore.gameStore.service;
+
+import br.com.gameStore.gameStore.dto.GamePrecosResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+
+// Classe de serviço que mantém um índice em memória dos preços do catálogo, em dois arrays primitivos paralelos
+// (double precos, long ids) ordenados por (preco, id), para responder faixas de preço e listas "mais baratos"/"mais caros"
+// com busca binária, sem boxing e sem carregar entidades do banco.
+// O índice é imutável: cada alteração publica uma nova cópia (copy-on-write), e as leituras usam a versão atual sem trava.
+// Os preços chegam pelo GamePrecosService, que guarda o preço e a versão atuais de cada jogo e informa o preço anterior em cada alteração.
+@Service
+public class GamePrecoIndexService {
+
+    private volatile Indice indice = new Indice(new double[0], new long[0]);
+
+    // recria o índice com todo o catálogo; ids[i] tem o preço precos[i], em qualquer ordem.
+    synchronized void recarregar(long[] ids, double[] precos) {
+        indice = Indice.ordenar(ids, precos);
+    }
+
+    // jogo novo no catálogo.
+    synchronized void incluir(long id, double preco) {
+        indice = indice.inserir(id, preco);
+    }
+
+    // jogo existente cujo preço passou de anterior para novo.
+    synchronized void alterar(long id, double anterior, double novo) {
+        if (Double.compare(anterior, novo) != 0) {
+            indice = indice.remover(id, anterior).inserir(id, novo);
+        }
+    }
+
+    // jogos com preço entre min e max (inclusive), do mais barato para o mais caro, limitados a limite resultados.
+    public GamePrecosResponse findByFaixa(double min, double max, int limite) {
+        Indice atual = indice;
+        int inicio = atual.primeiroMaiorOuIgual(min);
+        int fim = atual.primeiroMaior(max);
+        return atual.copiar(inicio, Math.max(0, Math.min(fim - inicio, limite)), false);
+    }
+
+    // os n jogos mais baratos, do mais barato para o mais caro.
+    public GamePrecosResponse findMaisBaratos(int n) {
+        Indice atual = indice;
+        return atual.copiar(0, Math.max(0, Math.min(n, atual.precos.length)), false);
+    }
+
+    // os n jogos mais caros, do mais caro para o mais barato.
+    public GamePrecosResponse findMaisCaros(int n) {
+        Indice atual = indice;
+        int quantidade = Math.max(0, Math.min(n, atual.precos.length));
+        return atual.copiar(atual.precos.length - quantidade, quantidade, true);
+    }
+
+    private static final class Indice {
+
+        private final double[] precos;
+        private final long[] ids;
+
+        private Indice(double[] precos, long[] ids) {
+            this.precos = precos;
+            this.ids = ids;
+        }
+
+        private static Indice ordenar(long[] ids, double[] precos) {
+            Integer[] ordem = new Integer[ids.length];
+            for (int i = 0; i < ordem.length; i++) {
+                ordem[i] = i;
+            }
+            Arrays.sort(ordem, Comparator.comparingDouble((Integer i) -> precos[i]).thenComparingLong(i -> ids[i]));
+            double[] precosOrdenados = new double[ordem.length];
+            long[] idsOrdenados = new long[ordem.length];
+            for (int i = 0; i < ordem.length; i++) {
+                precosOrdenados[i] = precos[ordem[i]];
+                idsOrdenados[i] = ids[ordem[i]];
+            }
+            return new Indice(precosOrdenados, idsOrdenados);
+        }
+
+        private int primeiroMaiorOuIgual(double preco) {
+            int baixo = 0;
+            int alto = precos.length;
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                if (precos[meio] < preco) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+            return baixo;
+        }
+
+        private int primeiroMaior(double preco) {
+            int baixo = 0;
+            int alto = precos.length;
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                if (precos[meio] <= preco) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+            return baixo;
+        }
+
+        // posição de (preco, id) no índice; negativa (-(ponto de inserção) - 1) se não existir.
+        private int posicao(long id, double preco) {
+            return Arrays.binarySearch(ids, primeiroMaiorOuIgual(preco), primeiroMaior(preco), id);
+        }
+
+        private Indice inserir(long id, double preco) {
+            int posicao = posicao(id, preco);
+            if (posicao >= 0) {
+                return this;
+            }
+            posicao = -posicao - 1;
+            double[] novosPrecos = new double[precos.length + 1];
+            long[] novosIds = new long[ids.length + 1];
+            System.arraycopy(precos, 0, novosPrecos, 0, posicao);
+            System.arraycopy(ids, 0, novosIds, 0, posicao);
+            novosPrecos[posicao] = preco;
+            novosIds[posicao] = id;
+            System.arraycopy(precos, posicao, novosPrecos, posicao + 1, precos.length - posicao);
+            System.arraycopy(ids, posicao, novosIds, posicao + 1, ids.length - posicao);
+            return new Indice(novosPrecos, novosIds);
+        }
+
+        private Indice remover(long id, double preco) {
+            int posicao = posicao(id, preco);
+            if (posicao < 0) {
+                return this;
+            }
+            double[] novosPrecos = new double[precos.length - 1];
+            long[] novosIds = new long[ids.length - 1];
+            System.arraycopy(precos, 0, novosPrecos, 0, posicao);
+            System.arraycopy(ids, 0, novosIds, 0, posicao);
+            System.arraycopy(precos, posicao + 1, novosPrecos, posicao, precos.length - posicao - 1);
+            System.arraycopy(ids, posicao + 1, novosIds, posicao, ids.length - posicao - 1);
+            return new Indice(novosPrecos, novosIds);
+        }
+
+        private GamePrecosResponse copiar(int inicio, int quantidade, boolean decrescente) {
+            long[] resultadoIds = new long[quantidade];
+            double[] resultadoPrecos = new double[quantidade];
+            if (!decrescente) {
+                System.arraycopy(ids, inicio, resultadoIds, 0, quantidade);
+                System.arraycopy(precos, inicio, resultadoPrecos, 0, quantidade);
+            } else {
+                for (int i = 0; i < quantidade; i++) {
+                    resultadoIds[i] = ids[inicio + quantidade - 1 - i];
+                    resultadoPrecos[i] = precos[inicio + quantidade - 1 - i];
+                }
+            }
+            return new GamePrecosResponse(resultadoIds, resultadoPrecos);
+        }
+    }
+}
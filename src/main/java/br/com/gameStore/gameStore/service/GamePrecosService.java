@@ -0,0 +1,131 @@
+package br.com.gameStore.gameStore.service;
+
+import br.com.gameStore.gameStore.model.Game;
+import br.com.gameStore.gameStore.repository.GameRespository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+
+// Classe de serviço que guarda o preço e a versão atuais de cada jogo do catálogo e repassa cada alteração, com o preço anterior,
+// para as estruturas derivadas: as estatísticas (GameStatsService) e o índice de preços (GamePrecoIndexService).
+// Os preços chegam de três fontes: os saves deste nó (GameService), as reconciliações do snapshot (CatalogoAlteradoEvent, que trazem
+// também as alterações de outros nós) e os rebuilds completos. Como elas podem chegar fora de ordem, uma alteração só é aplicada
+// se a versão for maior que a conhecida para o jogo.
+// Com o snapshot desabilitado não há reconciliação, então o catálogo é relido do banco a cada game.precos.rebuild-ms.
+@Service
+public class GamePrecosService {
+
+    @Autowired
+    private GameRespository gameRespository;
+
+    @Autowired
+    private GameSnapshotService gameSnapshotService;
+
+    private final GameStatsService gameStatsService;
+    private final GamePrecoIndexService gamePrecoIndexService;
+
+    private Map<Long, Registro> registros = new HashMap<>();
+
+    public GamePrecosService(GameStatsService gameStatsService, GamePrecoIndexService gamePrecoIndexService) {
+        this.gameStatsService = gameStatsService;
+        this.gamePrecoIndexService = gamePrecoIndexService;
+    }
+
+    // no startup, carrega os preços do snapshot já mapeado em memória (sem ir ao banco), ou do banco quando não há snapshot.
+    @EventListener(ApplicationReadyEvent.class)
+    public void aoIniciar() {
+        Optional<CatalogoSnapshot> snapshot = gameSnapshotService.getSnapshot();
+        if (snapshot.isEmpty()) {
+            rebuild();
+            return;
+        }
+        CatalogoSnapshot atual = snapshot.get();
+        Map<Long, Registro> novos = new HashMap<>(atual.tamanho() * 2);
+        for (int i = 0; i < atual.tamanho(); i++) {
+            novos.put(atual.id(i), new Registro(atual.preco(i), atual.versao(i)));
+        }
+        substituir(novos);
+    }
+
+    // esse método relê id, preco e versao de todo o catálogo no banco e recalcula as estatísticas e o índice.
+    // A consulta roda fora da trava, para não bloquear os saves; os jogos salvos durante a consulta com versão mais nova são mantidos.
+    // É chamado no startup sem snapshot, pelo endpoint POST /games/stats/rebuild e periodicamente com o snapshot desabilitado.
+    public void rebuild() {
+        List<Object[]> linhas = gameRespository.findAllPrecosOrdenados();
+        Map<Long, Registro> novos = new HashMap<>(linhas.size() * 2);
+        for (Object[] linha : linhas) {
+            novos.put(((Number) linha[0]).longValue(), new Registro(((Number) linha[1]).doubleValue(), ((Number) linha[2]).longValue()));
+        }
+        substituir(novos);
+    }
+
+    @Scheduled(initialDelayString = "${game.precos.rebuild-ms:300000}", fixedDelayString = "${game.precos.rebuild-ms:300000}")
+    public void rebuildPeriodico() {
+        if (!gameSnapshotService.isHabilitado()) {
+            rebuild();
+        }
+    }
+
+    // chamado depois que um jogo é incluído ou alterado, com o preço e a versão salvos.
+    public synchronized void registrar(long id, double preco, long versao) {
+        Registro anterior = registros.get(id);
+        if (anterior != null && anterior.versao() >= versao) {
+            return;
+        }
+        registros.put(id, new Registro(preco, versao));
+        if (anterior == null) {
+            gameStatsService.incluir(preco);
+            gamePrecoIndexService.incluir(id, preco);
+        } else {
+            gameStatsService.alterar(anterior.preco(), preco);
+            gamePrecoIndexService.alterar(id, anterior.preco(), preco);
+        }
+    }
+
+    // aplica os jogos recarregados do banco por uma reconciliação do snapshot.
+    // Como o lote pode ter o catálogo inteiro (primeira reconciliação), as estruturas derivadas são recalculadas uma única vez no final.
+    @EventListener
+    public synchronized void aoAlterarCatalogo(CatalogoAlteradoEvent evento) {
+        boolean alterado = false;
+        for (Game game : evento.alterados()) {
+            Registro anterior = registros.get(game.getId());
+            if (anterior == null || anterior.versao() < game.getVersao()) {
+                registros.put(game.getId(), new Registro(game.getPreco(), game.getVersao()));
+                alterado = true;
+            }
+        }
+        if (alterado) {
+            recarregarDerivados();
+        }
+    }
+
+    private synchronized void substituir(Map<Long, Registro> novos) {
+        registros.forEach((id, registro) -> novos.merge(id, registro, (lido, atual) -> atual.versao() > lido.versao() ? atual : lido));
+        registros = novos;
+        recarregarDerivados();
+    }
+
+    private void recarregarDerivados() {
+        long[] ids = new long[registros.size()];
+        double[] precos = new double[registros.size()];
+        int i = 0;
+        for (Map.Entry<Long, Registro> entrada : registros.entrySet()) {
+            ids[i] = entrada.getKey();
+            precos[i] = entrada.getValue().preco();
+            i++;
+        }
+        gameStatsService.recarregar(precos);
+        gamePrecoIndexService.recarregar(ids, precos);
+    }
+
+    private record Registro(double preco, long versao) {
+    }
+}
@@ -17,17 +17,42 @@ public class GameService {
     @Autowired
     private GameRespository gameRespository;
 
+    @Autowired
+    private GamePrecosService gamePrecosService;
+
+    @Autowired
+    private GameSnapshotService gameSnapshotService;
+
+    // salva o jogo e atualiza as estatísticas incrementais, o índice de preços e o snapshot do catálogo.
+    // A versão é controlada pelo JPA (@Version): em uma atualização o jogo recebe a versão atual do registro (a última escrita vence),
+    // e o UPDATE só é aplicado se ninguém tiver alterado a linha nesse meio tempo; caso contrário o JPA lança
+    // OptimisticLockingFailureException (respondida com 409 pelo GameController).
+    // Um id que não existe no banco é tratado como inclusão.
     public Game save(Game game){
-        return gameRespository.save(game);
+        Optional<Game> anterior = game.getId() == null
+                ? Optional.empty()
+                : gameRespository.findById(game.getId());
+        if (anterior.isPresent()) {
+            game.setVersao(anterior.get().getVersao());
+        } else {
+            game.setId(null);
+            game.setVersao(0);
+        }
+        Game salvo = gameRespository.save(game);
+        gamePrecosService.registrar(salvo.getId(), salvo.getPreco(), salvo.getVersao());
+        gameSnapshotService.registrar(salvo);
+        return salvo;
     }
 
 
+    // lê o catálogo do snapshot local quando disponível; caso contrário, do banco.
     public List<Game> findAll(){
-        return gameRespository.findAll();
+        return gameSnapshotService.findAll().orElseGet(gameRespository::findAll);
     }
 
 
     public Optional<Game> findById(Long id) {
-            return null;
+        Optional<Game> game = gameSnapshotService.findById(id);
+        return game.isPresent() ? game : gameRespository.findById(id);
     }
 }
@@ -0,0 +1,209 @@
+package br.com.gameStore.gameStore.service;
+
+import br.com.gameStore.gameStore.model.Game;
+import br.com.gameStore.gameStore.repository.GameRespository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+// Classe de serviço que mantém um snapshot binário local do catálogo (CatalogoSnapshot) para reinícios "quentes".
+// No startup o arquivo existente é mapeado em memória e passa a responder as leituras do GameService imediatamente, sem ir ao MySQL.
+// Em segundo plano, o método atualizar compara o snapshot com o banco pela versão de cada jogo, busca apenas os jogos alterados
+// e grava um novo arquivo. Os jogos salvos neste nó depois do último snapshot ficam em memória (pendentes) até entrarem no próximo arquivo.
+// Os jogos recarregados em cada reconciliação são publicados em um CatalogoAlteradoEvent, para os índices em memória verem alterações de outros nós.
+@Service
+public class GameSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(GameSnapshotService.class);
+
+    @Autowired
+    private GameRespository gameRespository;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${game.snapshot.enabled:true}")
+    private boolean habilitado;
+
+    @Value("${game.snapshot.arquivo:./data/catalogo.snapshot}")
+    private Path arquivo;
+
+    private volatile CatalogoSnapshot snapshot;
+
+    private final Map<Long, Game> pendentes = new ConcurrentHashMap<>();
+
+    // esse método mapeia o snapshot gravado na execução anterior, se existir.
+    // Um arquivo ausente ou inválido não impede o startup: as leituras simplesmente vão ao banco até o primeiro snapshot ser gravado.
+    @PostConstruct
+    public void carregar() {
+        if (!habilitado) {
+            return;
+        }
+        try {
+            Optional<Path> maisRecente = CatalogoSnapshot.maisRecente(arquivo);
+            if (maisRecente.isPresent()) {
+                snapshot = CatalogoSnapshot.abrir(maisRecente.get());
+                log.info("Snapshot do catálogo carregado de {} com {} jogos", maisRecente.get(), snapshot.tamanho());
+            }
+        } catch (IOException e) {
+            log.warn("Ignorando snapshot do catálogo em {}: {}", arquivo, e.getMessage());
+        }
+    }
+
+    // agenda a primeira reconciliação para logo depois do startup, fora da thread principal.
+    // Esperar o ApplicationReadyEvent garante que nada do startup (migrations, carga inicial) ainda esteja alterando o catálogo.
+    @EventListener(ApplicationReadyEvent.class)
+    public void agendarReconciliacao() {
+        if (habilitado) {
+            taskScheduler.schedule(this::atualizar, Instant.now());
+        }
+    }
+
+    boolean isHabilitado() {
+        return habilitado;
+    }
+
+    // snapshot mapeado atualmente, sem os pendentes; vazio enquanto nenhum arquivo foi carregado ou gravado.
+    Optional<CatalogoSnapshot> getSnapshot() {
+        return Optional.ofNullable(snapshot);
+    }
+
+    // retorna o catálogo a partir do snapshot, com os jogos pendentes aplicados por cima,
+    // ou Optional.empty() quando ainda não há snapshot e a leitura deve ir ao banco.
+    public Optional<List<Game>> findAll() {
+        CatalogoSnapshot atual = snapshot;
+        if (atual == null) {
+            return Optional.empty();
+        }
+        List<Game> games = new ArrayList<>(atual.tamanho() + pendentes.size());
+        for (int i = 0; i < atual.tamanho(); i++) {
+            Game pendente = pendentes.get(atual.id(i));
+            games.add(pendente != null ? pendente : atual.ler(i));
+        }
+        for (Game pendente : pendentes.values()) {
+            if (atual.indice(pendente.getId()) < 0) {
+                games.add(pendente);
+            }
+        }
+        return Optional.of(games);
+    }
+
+    // retorna o jogo a partir do snapshot ou dos pendentes, ou Optional.empty() quando ele não está no snapshot e deve ser buscado no banco.
+    public Optional<Game> findById(Long id) {
+        Game pendente = pendentes.get(id);
+        if (pendente != null) {
+            return Optional.of(pendente);
+        }
+        CatalogoSnapshot atual = snapshot;
+        if (atual == null) {
+            return Optional.empty();
+        }
+        int indice = atual.indice(id);
+        return indice < 0 ? Optional.empty() : Optional.of(atual.ler(indice));
+    }
+
+    // chamado pelo GameService depois de cada save, para que as leituras deste nó vejam o jogo antes do próximo snapshot.
+    // Saves concorrentes do mesmo jogo podem chegar fora de ordem; fica o de maior versão.
+    public void registrar(Game game) {
+        if (habilitado) {
+            adicionarPendente(game);
+        }
+    }
+
+    private void adicionarPendente(Game game) {
+        Game copia = new Game(game.getId(), game.getTitulo(), game.getDescricao(), game.getPreco(), game.getVersao());
+        pendentes.merge(copia.getId(), copia, (atual, novo) -> novo.getVersao() >= atual.getVersao() ? novo : atual);
+    }
+
+    // esse método reconcilia o snapshot com o banco e grava um novo arquivo quando algo mudou.
+    // Apenas os pares (id, versao) são lidos de todo o catálogo; entidades completas são buscadas somente para os jogos novos ou alterados.
+    // Roda em segundo plano logo após o startup (agendarReconciliacao) e depois a cada game.snapshot.intervalo-ms.
+    @Scheduled(initialDelayString = "${game.snapshot.intervalo-ms:60000}", fixedDelayString = "${game.snapshot.intervalo-ms:60000}")
+    public synchronized void atualizar() {
+        if (!habilitado) {
+            return;
+        }
+        CatalogoSnapshot atual = snapshot;
+        List<Object[]> versoes = gameRespository.findAllVersoes();
+        boolean alterado = atual == null || atual.tamanho() != versoes.size();
+        List<Long> idsAlterados = new ArrayList<>();
+        for (Object[] linha : versoes) {
+            long id = ((Number) linha[0]).longValue();
+            long versao = ((Number) linha[1]).longValue();
+            int indice = atual == null ? -1 : atual.indice(id);
+            if (indice < 0 || atual.versao(indice) != versao) {
+                idsAlterados.add(id);
+                alterado = true;
+            }
+        }
+        if (!alterado) {
+            return;
+        }
+
+        // sem snapshot todos os jogos são novos: uma leitura do catálogo inteiro em vez de um IN com todos os ids
+        Map<Long, Game> carregados = new HashMap<>();
+        for (Game game : atual == null ? gameRespository.findAll() : gameRespository.findAllById(idsAlterados)) {
+            carregados.put(game.getId(), game);
+        }
+        List<Game> games = new ArrayList<>(versoes.size());
+        for (Object[] linha : versoes) {
+            long id = ((Number) linha[0]).longValue();
+            Game game = carregados.get(id);
+            if (game == null) {
+                int indice = atual == null ? -1 : atual.indice(id);
+                if (indice < 0) {
+                    // removido do banco entre as duas consultas
+                    continue;
+                }
+                game = atual.ler(indice);
+            }
+            games.add(game);
+        }
+
+        Path gravado = null;
+        try {
+            gravado = CatalogoSnapshot.gravar(arquivo, games);
+            snapshot = CatalogoSnapshot.abrir(gravado);
+            CatalogoSnapshot.removerAnteriores(arquivo, gravado);
+        } catch (IOException e) {
+            log.warn("Falha ao gravar snapshot do catálogo em {}: {}", arquivo, e.getMessage());
+        }
+        // publicado mesmo se a gravação falhar: os jogos recarregados vieram do banco e continuam valendo para os índices
+        if (!carregados.isEmpty()) {
+            eventPublisher.publishEvent(new CatalogoAlteradoEvent(List.copyOf(carregados.values())));
+        }
+        if (gravado == null) {
+            // o snapshot anterior continua em uso; os jogos recarregados ficam nos pendentes para as leituras não servirem dados antigos
+            carregados.values().forEach(this::adicionarPendente);
+            return;
+        }
+        CatalogoSnapshot novo = snapshot;
+        pendentes.values().removeIf(pendente -> {
+            int indice = novo.indice(pendente.getId());
+            return indice >= 0 && novo.versao(indice) >= pendente.getVersao();
+        });
+        log.info("Snapshot do catálogo gravado em {} com {} jogos ({} recarregados do banco)", gravado, games.size(), carregados.size());
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.gameStore.gameStore.service;
+
+import br.com.gameStore.gameStore.dto.GameStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+
+// Classe de serviço que mantém as estatísticas do catálogo (quantidade, preço mínimo, máximo, médio e histograma por faixa de preço)
+// de forma incremental, em contadores primitivos, para que GET /games/stats não precise ler o catálogo inteiro a cada chamada.
+// Os preços chegam pelo GamePrecosService, que guarda o preço e a versão atuais de cada jogo e informa o preço anterior em cada alteração.
+// A contagem de jogos por preço (TreeMap) dá o mínimo e o máximo em O(log n) mesmo quando o extremo atual é removido.
+// Todas as escritas são sincronizadas; a leitura devolve um snapshot imutável já montado, sem trava.
+@Service
+public class GameStatsService {
+
+    // limites superiores das faixas do histograma, em ordem crescente. A última faixa vai do último limite ao infinito.
+    private final double[] limites;
+
+    private long total;
+    private double soma;
+    private final long[] faixas;
+
+    private final TreeMap<Double, Integer> quantidadePorPreco = new TreeMap<>();
+
+    private volatile GameStatsResponse snapshot;
+
+    public GameStatsService(@Value("${game.stats.faixas:20,50,100,200,300}") double[] limites) {
+        this.limites = limites.clone();
+        Arrays.sort(this.limites);
+        this.faixas = new long[this.limites.length + 1];
+        this.snapshot = montarSnapshot();
+    }
+
+    // esse método devolve as estatísticas atuais sem acessar o banco; o custo não depende do tamanho do catálogo.
+    public GameStatsResponse getStats() {
+        return snapshot;
+    }
+
+    // zera os contadores e os recalcula com os preços de todo o catálogo.
+    synchronized void recarregar(double[] precos) {
+        total = 0;
+        soma = 0;
+        Arrays.fill(faixas, 0);
+        quantidadePorPreco.clear();
+        for (double preco : precos) {
+            adicionar(preco);
+        }
+        snapshot = montarSnapshot();
+    }
+
+    // jogo novo no catálogo.
+    synchronized void incluir(double preco) {
+        adicionar(preco);
+        snapshot = montarSnapshot();
+    }
+
+    // jogo existente cujo preço passou de anterior para novo.
+    synchronized void alterar(double anterior, double novo) {
+        retirar(anterior);
+        adicionar(novo);
+        snapshot = montarSnapshot();
+    }
+
+    private void adicionar(double preco) {
+        total++;
+        soma += preco;
+        faixas[indiceFaixa(preco)]++;
+        quantidadePorPreco.merge(preco, 1, Integer::sum);
+    }
+
+    private void retirar(double preco) {
+        total--;
+        soma -= preco;
+        faixas[indiceFaixa(preco)]--;
+        quantidadePorPreco.computeIfPresent(preco, (p, quantidade) -> quantidade == 1 ? null : quantidade - 1);
+    }
+
+    private int indiceFaixa(double preco) {
+        int i = 0;
+        while (i < limites.length && preco >= limites[i]) {
+            i++;
+        }
+        return i;
+    }
+
+    private GameStatsResponse montarSnapshot() {
+        List<GameStatsResponse.FaixaPreco> histograma = new ArrayList<>(faixas.length);
+        double de = 0;
+        for (int i = 0; i < faixas.length; i++) {
+            Double ate = i < limites.length ? limites[i] : null;
+            histograma.add(new GameStatsResponse.FaixaPreco(de, ate, faixas[i]));
+            if (ate != null) {
+                de = ate;
+            }
+        }
+        if (total == 0) {
+            return new GameStatsResponse(0, null, null, null, List.copyOf(histograma));
+        }
+        return new GameStatsResponse(total, quantidadePorPreco.firstKey(), quantidadePorPreco.lastKey(), soma / total, List.copyOf(histograma));
+    }
+}
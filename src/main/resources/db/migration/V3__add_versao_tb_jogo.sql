@@ -0,0 +1,7 @@
+
+-- V3__add_versao_tb_jogo.sql
+-- Adição da coluna de versão na tabela de jogos
+-- Esta migração adiciona à tabela "tb_jogo" o campo:
+-- - versao: Versão do jogo (obrigatório, começa em 0), incrementada pelo JPA (@Version) a cada alteração
+--   e usada no controle de concorrência otimista e na reconciliação do snapshot do catálogo
+ALTER TABLE tb_jogo ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,83 @@
+package br.com.gameStore.gameStore.benchmark;
+
+import br.com.gameStore.gameStore.model.Game;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Benchmark de tamanho e tempo de serialização da lista de jogos (resposta de GET /games) em JSON, CBOR e Smile,
+// com catálogos de 1k, 10k e 100k jogos. Imprime uma tabela com bytes, bytes após gzip e mediana do tempo de encode.
+// Não roda no build padrão; para executar: ./mvnw test -Pbenchmark
+@Tag("benchmark")
+class GamePayloadBenchmarkTests {
+
+    private static final int[] TAMANHOS = {1_000, 10_000, 100_000};
+    private static final int AQUECIMENTO = 5;
+    private static final int MEDICOES = 15;
+
+    @Test
+    void compararFormatos() throws IOException {
+        Map<String, ObjectMapper> formatos = new LinkedHashMap<>();
+        formatos.put("json", JsonMapper.builder().build());
+        formatos.put("cbor", CBORMapper.builder().build());
+        formatos.put("smile", SmileMapper.builder().build());
+
+        System.out.printf("%-8s %-6s %12s %12s %12s%n", "jogos", "fmt", "bytes", "gzip", "encode(ms)");
+        for (int tamanho : TAMANHOS) {
+            List<Game> games = catalogo(tamanho);
+            long bytesJson = 0;
+            for (Map.Entry<String, ObjectMapper> formato : formatos.entrySet()) {
+                ObjectMapper mapper = formato.getValue();
+                for (int i = 0; i < AQUECIMENTO; i++) {
+                    mapper.writeValueAsBytes(games);
+                }
+                long[] tempos = new long[MEDICOES];
+                byte[] payload = null;
+                for (int i = 0; i < MEDICOES; i++) {
+                    long inicio = System.nanoTime();
+                    payload = mapper.writeValueAsBytes(games);
+                    tempos[i] = System.nanoTime() - inicio;
+                }
+                Arrays.sort(tempos);
+                System.out.printf("%-8d %-6s %12d %12d %12.2f%n", tamanho, formato.getKey(), payload.length,
+                        gzip(payload), tempos[MEDICOES / 2] / 1_000_000.0);
+
+                if (formato.getKey().equals("json")) {
+                    bytesJson = payload.length;
+                } else {
+                    assertTrue(payload.length < bytesJson, formato.getKey() + " deveria ser menor que json");
+                }
+            }
+        }
+    }
+
+    private static List<Game> catalogo(int tamanho) {
+        List<Game> games = new ArrayList<>(tamanho);
+        for (int i = 1; i <= tamanho; i++) {
+            games.add(new Game((long) i, "Jogo " + i, "Descrição do jogo número " + i + " do catálogo", 10 + (i % 490) + 0.99, 1));
+        }
+        return games;
+    }
+
+    private static int gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(payload);
+        }
+        return saida.size();
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.gameStore.gameStore.carga;
+
+import br.com.gameStore.gameStore.carga.GeradorCarga.Operacao;
+import br.com.gameStore.gameStore.carga.GeradorCarga.Resultado;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Teste de carga local: sobe a aplicação com o profile "test" (H2 + dados semeados) em uma porta aleatória,
+// roda o GeradorCarga com o mix configurado e falha o build se houver respostas de erro ou se algum p95/p99
+// passar dos SLOs definidos em application-test.properties (carga.slo.<operacao>.p95-ms / p99-ms).
+// O relatório (req/s e p50/p95/p99 por endpoint) é impresso e gravado em target/carga/relatorio.txt.
+// Faz parte do build padrão (./mvnw test) de propósito, para que uma regressão de SLO quebre o build; por isso não tem @Tag,
+// ao contrário dos benchmarks. Para rodar só ele: ./mvnw test -Dtest=CargaSloTests
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class CargaSloTests {
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${carga.seed.admin}")
+    private String admin;
+    @Value("${carga.seed.senha}")
+    private String senha;
+    @Value("${carga.seed.usuarios}")
+    private int usuarios;
+    @Value("${carga.usuarios-virtuais}")
+    private int usuariosVirtuais;
+    @Value("${carga.iteracoes-por-usuario}")
+    private int iteracoes;
+
+    @Test
+    void mixDeRequisicoesDentroDoSlo() throws Exception {
+        String[] emails = new String[usuarios];
+        for (int i = 0; i < usuarios; i++) {
+            emails[i] = DadosTesteSeeder.emailUsuario(i + 1);
+        }
+        Map<Operacao, Integer> mix = new EnumMap<>(Operacao.class);
+        for (Operacao operacao : Operacao.values()) {
+            mix.put(operacao, environment.getRequiredProperty(chave(operacao, "mix"), Integer.class));
+        }
+
+        GeradorCarga gerador = new GeradorCarga("http://localhost:" + porta, admin, emails, senha);
+        Map<Operacao, Resultado> resultados = gerador.executar(usuariosVirtuais, iteracoes, mix);
+
+        String relatorio = GeradorCarga.relatorio(resultados);
+        System.out.print(relatorio);
+        Path arquivo = Path.of("target", "carga", "relatorio.txt");
+        Files.createDirectories(arquivo.getParent());
+        Files.writeString(arquivo, relatorio);
+
+        List<Executable> verificacoes = new ArrayList<>();
+        for (Map.Entry<Operacao, Resultado> entrada : resultados.entrySet()) {
+            Operacao operacao = entrada.getKey();
+            Resultado resultado = entrada.getValue();
+            if (resultado.requisicoes() == 0) {
+                continue;
+            }
+            double p95 = environment.getRequiredProperty(chave(operacao, "slo") + ".p95-ms", Double.class);
+            double p99 = environment.getRequiredProperty(chave(operacao, "slo") + ".p99-ms", Double.class);
+            verificacoes.add(() -> assertEquals(0, resultado.erros(), operacao.descricao + ": respostas de erro"));
+            verificacoes.add(() -> assertTrue(resultado.percentilMs(95) <= p95,
+                    operacao.descricao + ": p95 " + resultado.percentilMs(95) + "ms acima do SLO de " + p95 + "ms"));
+            verificacoes.add(() -> assertTrue(resultado.percentilMs(99) <= p99,
+                    operacao.descricao + ": p99 " + resultado.percentilMs(99) + "ms acima do SLO de " + p99 + "ms"));
+        }
+        assertAll(verificacoes);
+    }
+
+    private static String chave(Operacao operacao, String grupo) {
+        return "carga." + grupo + "." + operacao.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.gameStore.gameStore.carga;
+
+import br.com.gameStore.gameStore.mode.enums.Papel;
+import br.com.gameStore.gameStore.model.Game;
+import br.com.gameStore.gameStore.model.Usuario;
+import br.com.gameStore.gameStore.repository.GameRespository;
+import br.com.gameStore.gameStore.repository.UsuarioRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Semeia o banco H2 do profile "test" com um admin, usuários comuns e jogos (quantidades em application-test.properties).
+// Roda antes do ApplicationReadyEvent, então estatísticas e índice de preços já sobem com esses dados.
+// É idempotente: contextos de teste diferentes compartilham o mesmo banco em memória.
+@Component
+@Profile("test")
+public class DadosTesteSeeder implements ApplicationRunner {
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+    @Autowired
+    private GameRespository gameRespository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${carga.seed.senha}")
+    private String senha;
+    @Value("${carga.seed.admin}")
+    private String admin;
+    @Value("${carga.seed.usuarios}")
+    private int usuarios;
+    @Value("${carga.seed.jogos}")
+    private int jogos;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (usuarioRepository.findByEmail(admin) == null) {
+            String senhaCriptografada = passwordEncoder.encode(senha);
+            List<Usuario> novos = new ArrayList<>();
+            novos.add(new Usuario("Admin", admin, senhaCriptografada, Papel.ADMIN));
+            for (int i = 1; i <= usuarios; i++) {
+                novos.add(new Usuario("Usuario " + i, emailUsuario(i), senhaCriptografada, Papel.USUARIO));
+            }
+            usuarioRepository.saveAll(novos);
+        }
+        if (gameRespository.count() == 0) {
+            List<Game> novos = new ArrayList<>();
+            for (int i = 1; i <= jogos; i++) {
+                novos.add(new Game(null, "Jogo " + i, "Descrição do jogo " + i, 10 + (i * 7 % 490) + 0.99, 1));
+            }
+            gameRespository.saveAll(novos);
+        }
+    }
+
+    static String emailUsuario(int i) {
+        return "usuario" + i + "@gamestore.com";
+    }
+}
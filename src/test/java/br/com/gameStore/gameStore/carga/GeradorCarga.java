@@ -0,0 +1,234 @@
+package br.com.gameStore.gameStore.carga;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Gerador de carga em processo: cada usuário virtual faz login (admin e usuário comum) e depois executa um número fixo de
+// iterações escolhendo a operação pelo peso do mix (login, GET /games, POST /games). As requisições passam por HTTP real,
+// então atravessam o Tomcat e toda a cadeia de filtros do SecurityConfig (incluindo o VerificarToken).
+// As latências de cada operação são gravadas em arrays primitivos por usuário virtual e juntadas no final.
+final class GeradorCarga {
+
+    enum Operacao {
+        LOGIN("POST /auth/login"),
+        LISTAR("GET /games"),
+        CRIAR("POST /games");
+
+        final String descricao;
+
+        Operacao(String descricao) {
+            this.descricao = descricao;
+        }
+    }
+
+    // latências ordenadas (ns) e contagem de respostas não-2xx de uma operação, com a duração total da execução.
+    record Resultado(long[] latencias, int erros, long duracaoNanos) {
+
+        int requisicoes() {
+            return latencias.length;
+        }
+
+        double porSegundo() {
+            return latencias.length / (duracaoNanos / 1_000_000_000.0);
+        }
+
+        // percentil pelo método nearest-rank, em milissegundos.
+        double percentilMs(double percentil) {
+            if (latencias.length == 0) {
+                return 0;
+            }
+            int posicao = (int) Math.ceil(percentil / 100.0 * latencias.length) - 1;
+            return latencias[Math.max(posicao, 0)] / 1_000_000.0;
+        }
+    }
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final HttpClient cliente = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String baseUrl;
+    private final String admin;
+    private final String[] usuarios;
+    private final String senha;
+
+    GeradorCarga(String baseUrl, String admin, String[] usuarios, String senha) {
+        this.baseUrl = baseUrl;
+        this.admin = admin;
+        this.usuarios = usuarios;
+        this.senha = senha;
+    }
+
+    Map<Operacao, Resultado> executar(int usuariosVirtuais, int iteracoes, Map<Operacao, Integer> mix) throws Exception {
+        Operacao[] sorteio = montarSorteio(mix);
+        ExecutorService executor = Executors.newFixedThreadPool(usuariosVirtuais);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<UsuarioVirtual>> futuros = new ArrayList<>();
+        try {
+            for (int i = 0; i < usuariosVirtuais; i++) {
+                UsuarioVirtual usuario = new UsuarioVirtual(i, usuarios[i % usuarios.length]);
+                usuario.preparar();
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    usuario.rodar(iteracoes, sorteio);
+                    return usuario;
+                }));
+            }
+            long inicio = System.nanoTime();
+            largada.countDown();
+            List<UsuarioVirtual> concluidos = new ArrayList<>();
+            for (Future<UsuarioVirtual> futuro : futuros) {
+                concluidos.add(futuro.get());
+            }
+            long duracao = System.nanoTime() - inicio;
+            return consolidar(concluidos, duracao);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static String relatorio(Map<Operacao, Resultado> resultados) {
+        StringBuilder texto = new StringBuilder(String.format("%-18s %8s %6s %9s %9s %9s %9s%n",
+                "endpoint", "req", "erros", "req/s", "p50(ms)", "p95(ms)", "p99(ms)"));
+        for (Map.Entry<Operacao, Resultado> entrada : resultados.entrySet()) {
+            Resultado r = entrada.getValue();
+            texto.append(String.format("%-18s %8d %6d %9.1f %9.2f %9.2f %9.2f%n", entrada.getKey().descricao,
+                    r.requisicoes(), r.erros(), r.porSegundo(), r.percentilMs(50), r.percentilMs(95), r.percentilMs(99)));
+        }
+        return texto.toString();
+    }
+
+    private static Operacao[] montarSorteio(Map<Operacao, Integer> mix) {
+        List<Operacao> sorteio = new ArrayList<>();
+        for (Map.Entry<Operacao, Integer> entrada : mix.entrySet()) {
+            for (int i = 0; i < entrada.getValue(); i++) {
+                sorteio.add(entrada.getKey());
+            }
+        }
+        if (sorteio.isEmpty()) {
+            throw new IllegalArgumentException("O mix de carga precisa ter ao menos uma operação com peso maior que zero");
+        }
+        return sorteio.toArray(new Operacao[0]);
+    }
+
+    private static Map<Operacao, Resultado> consolidar(List<UsuarioVirtual> usuarios, long duracao) {
+        Map<Operacao, Resultado> resultados = new EnumMap<>(Operacao.class);
+        for (Operacao operacao : Operacao.values()) {
+            int total = 0;
+            int erros = 0;
+            for (UsuarioVirtual usuario : usuarios) {
+                total += usuario.quantidade[operacao.ordinal()];
+                erros += usuario.erros[operacao.ordinal()];
+            }
+            long[] latencias = new long[total];
+            int posicao = 0;
+            for (UsuarioVirtual usuario : usuarios) {
+                int quantidade = usuario.quantidade[operacao.ordinal()];
+                System.arraycopy(usuario.latencias[operacao.ordinal()], 0, latencias, posicao, quantidade);
+                posicao += quantidade;
+            }
+            Arrays.sort(latencias);
+            resultados.put(operacao, new Resultado(latencias, erros, duracao));
+        }
+        return resultados;
+    }
+
+    private final class UsuarioVirtual {
+
+        private final Random random;
+        private final String email;
+        private final long[][] latencias = new long[Operacao.values().length][64];
+        private final int[] quantidade = new int[Operacao.values().length];
+        private final int[] erros = new int[Operacao.values().length];
+        private String tokenUsuario;
+        private String tokenAdmin;
+        private int criados;
+
+        private UsuarioVirtual(int numero, String email) {
+            this.random = new Random(numero);
+            this.email = email;
+        }
+
+        // logins iniciais, fora da medição
+        private void preparar() throws IOException, InterruptedException {
+            tokenUsuario = token(login(email));
+            tokenAdmin = token(login(admin));
+        }
+
+        private void rodar(int iteracoes, Operacao[] sorteio) throws IOException, InterruptedException {
+            for (int i = 0; i < iteracoes; i++) {
+                Operacao operacao = sorteio[random.nextInt(sorteio.length)];
+                long inicio = System.nanoTime();
+                HttpResponse<String> resposta = switch (operacao) {
+                    case LOGIN -> login(email);
+                    case LISTAR -> enviar(HttpRequest.newBuilder(URI.create(baseUrl + "/games"))
+                            .header("Authorization", "Bearer " + tokenUsuario)
+                            .GET());
+                    case CRIAR -> enviar(HttpRequest.newBuilder(URI.create(baseUrl + "/games"))
+                            .header("Authorization", "Bearer " + tokenAdmin)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(novoJogo())));
+                };
+                registrar(operacao, System.nanoTime() - inicio, resposta.statusCode());
+                if (operacao == Operacao.LOGIN && resposta.statusCode() == 200) {
+                    tokenUsuario = token(resposta);
+                }
+            }
+        }
+
+        private HttpResponse<String> login(String login) throws IOException, InterruptedException {
+            String corpo = JSON.writeValueAsString(Map.of("email", login, "password", senha));
+            return enviar(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(corpo)));
+        }
+
+        private HttpResponse<String> enviar(HttpRequest.Builder requisicao) throws IOException, InterruptedException {
+            return cliente.send(requisicao.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+        }
+
+        private String novoJogo() {
+            criados++;
+            return JSON.writeValueAsString(Map.of(
+                    "titulo", "Carga " + email + " " + criados,
+                    "descricao", "Jogo criado pelo teste de carga",
+                    "preco", 5 + random.nextInt(500) + 0.99));
+        }
+
+        private void registrar(Operacao operacao, long latencia, int status) {
+            int i = operacao.ordinal();
+            if (quantidade[i] == latencias[i].length) {
+                latencias[i] = Arrays.copyOf(latencias[i], latencias[i].length * 2);
+            }
+            latencias[i][quantidade[i]++] = latencia;
+            if (status < 200 || status >= 300) {
+                erros[i]++;
+            }
+        }
+
+        private String token(HttpResponse<String> resposta) {
+            if (resposta.statusCode() != 200) {
+                throw new IllegalStateException("Login falhou com status " + resposta.statusCode() + ": " + resposta.body());
+            }
+            return JSON.readTree(resposta.body()).get("token").asString();
+        }
+    }
+}
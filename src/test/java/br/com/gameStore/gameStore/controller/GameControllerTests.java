@@ -0,0 +1,78 @@
+package br.com.gameStore.gameStore.controller;
+
+import br.com.gameStore.gameStore.model.Game;
+import br.com.gameStore.gameStore.repository.GameRespository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Testes da negociação de conteúdo de GET /games: JSON por padrão, CBOR e Smile quando pedidos no Accept.
+// O corpo é decodificado com o mapper do próprio formato e comparado com os jogos semeados no banco.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "USUARIO")
+class GameControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GameRespository gameRespository;
+
+    @Test
+    void respondeJsonPorPadrao() throws Exception {
+        byte[] corpo = mockMvc.perform(get("/games"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/json"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertCatalogo(new JsonMapper(), corpo);
+    }
+
+    @Test
+    void respondeCborQuandoPedido() throws Exception {
+        byte[] corpo = mockMvc.perform(get("/games").header("Accept", "application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertCatalogo(new CBORMapper(), corpo);
+    }
+
+    @Test
+    void respondeSmileQuandoPedido() throws Exception {
+        byte[] corpo = mockMvc.perform(get("/games").header("Accept", "application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertCatalogo(new SmileMapper(), corpo);
+    }
+
+    private void assertCatalogo(ObjectMapper mapper, byte[] corpo) {
+        List<Game> esperado = gameRespository.findAll().stream().sorted(Comparator.comparing(Game::getId)).toList();
+        List<Game> recebido = Arrays.stream(mapper.readValue(corpo, Game[].class)).sorted(Comparator.comparing(Game::getId)).toList();
+
+        assertFalse(esperado.isEmpty());
+        assertEquals(esperado, recebido);
+    }
+}
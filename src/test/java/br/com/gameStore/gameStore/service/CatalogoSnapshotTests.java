@@ -0,0 +1,94 @@
+package br.com.gameStore.gameStore.service;
+
+import br.com.gameStore.gameStore.model.Game;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Testes de ida e volta do formato binário do CatalogoSnapshot (gravar -> abrir -> ler) e das gerações de arquivo.
+class CatalogoSnapshotTests {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void leOsMesmosJogosQueForamGravados() throws IOException {
+        List<Game> games = List.of(
+                new Game(1L, "", "", 0.0, 0),
+                new Game(2L, null, null, 9.99, 3),
+                new Game(7L, "Ação & Aventura ñ 日本語 🎮", "Descrição com acentos: é, ç, ã", 199.9, 12),
+                new Game(40L, "Último", "x".repeat(10_000), 59.5, Long.MAX_VALUE));
+
+        CatalogoSnapshot snapshot = CatalogoSnapshot.abrir(CatalogoSnapshot.gravar(diretorio.resolve("catalogo.snapshot"), games));
+
+        assertEquals(games.size(), snapshot.tamanho());
+        for (int i = 0; i < games.size(); i++) {
+            assertEquals(games.get(i), snapshot.ler(i));
+            assertEquals(games.get(i).getVersao(), snapshot.versao(i));
+        }
+        assertEquals(2, snapshot.indice(7L));
+        assertTrue(snapshot.indice(3L) < 0);
+    }
+
+    @Test
+    void catalogoVazio() throws IOException {
+        CatalogoSnapshot snapshot = CatalogoSnapshot.abrir(CatalogoSnapshot.gravar(diretorio.resolve("catalogo.snapshot"), List.of()));
+
+        assertEquals(0, snapshot.tamanho());
+        assertTrue(snapshot.indice(1L) < 0);
+    }
+
+    @Test
+    void cadaGravacaoCriaUmaNovaGeracaoSemTocarNaMapeada() throws IOException {
+        Path base = diretorio.resolve("catalogo.snapshot");
+        Path primeira = CatalogoSnapshot.gravar(base, List.of(new Game(1L, "A", "a", 10, 1)));
+        CatalogoSnapshot mapeado = CatalogoSnapshot.abrir(primeira);
+
+        Path segunda = CatalogoSnapshot.gravar(base, List.of(new Game(1L, "B", "b", 20, 2)));
+
+        assertNotEquals(primeira, segunda);
+        assertEquals(segunda, CatalogoSnapshot.maisRecente(base).orElseThrow());
+        assertEquals("A", mapeado.ler(0).getTitulo());
+        assertEquals("B", CatalogoSnapshot.abrir(segunda).ler(0).getTitulo());
+
+        CatalogoSnapshot.removerAnteriores(base, segunda);
+        assertFalse(Files.exists(primeira));
+        assertTrue(Files.exists(segunda));
+    }
+
+    @Test
+    void semSnapshotGravado() throws IOException {
+        assertTrue(CatalogoSnapshot.maisRecente(diretorio.resolve("catalogo.snapshot")).isEmpty());
+    }
+
+    @Test
+    void arquivoInvalido() throws IOException {
+        Path arquivo = Files.write(diretorio.resolve("catalogo.snapshot.1"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+        assertThrows(IOException.class, () -> CatalogoSnapshot.abrir(arquivo));
+    }
+
+    @Test
+    void quantidadeInvalidaNoCabecalho() throws IOException {
+        Path base = diretorio.resolve("catalogo.snapshot");
+        Path arquivo = CatalogoSnapshot.gravar(base, List.of(new Game(1L, "A", "a", 10, 1)));
+        for (int quantidade : new int[]{-1, Integer.MAX_VALUE, 2}) {
+            ByteBuffer conteudo = ByteBuffer.wrap(Files.readAllBytes(arquivo));
+            conteudo.putInt(8, quantidade);
+            Path corrompido = Files.write(diretorio.resolve("corrompido." + quantidade), conteudo.array());
+
+            assertThrows(IOException.class, () -> CatalogoSnapshot.abrir(corrompido));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.gameStore.gameStore.service;
+
+import br.com.gameStore.gameStore.dto.GamePrecosResponse;
+import br.com.gameStore.gameStore.model.Game;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Testes das consultas do índice de preços (faixa, mais baratos, mais caros) e das atualizações versionadas
+// que chegam pelo GamePrecosService.
+class GamePrecoIndexServiceTests {
+
+    private GamePrecoIndexService service;
+    private GamePrecosService precos;
+
+    @BeforeEach
+    void setUp() {
+        service = new GamePrecoIndexService();
+        precos = new GamePrecosService(new GameStatsService(new double[]{20, 50}), service);
+        precos.registrar(1L, 50.0, 1);
+        precos.registrar(2L, 10.0, 1);
+        precos.registrar(3L, 30.0, 1);
+        precos.registrar(4L, 30.0, 1);
+        precos.registrar(5L, 70.0, 1);
+    }
+
+    @Test
+    void faixaIncluiMinimoEMaximo() {
+        GamePrecosResponse resposta = service.findByFaixa(10.0, 50.0, 100);
+
+        assertArrayEquals(new long[]{2, 3, 4, 1}, resposta.ids());
+        assertArrayEquals(new double[]{10.0, 30.0, 30.0, 50.0}, resposta.precos());
+    }
+
+    @Test
+    void faixaComPrecosIguaisOrdenaPorId() {
+        assertArrayEquals(new long[]{3, 4}, service.findByFaixa(30.0, 30.0, 100).ids());
+        assertArrayEquals(new long[]{3}, service.findByFaixa(30.0, 30.0, 1).ids());
+    }
+
+    @Test
+    void faixaVaziaOuInvertida() {
+        assertEquals(0, service.findByFaixa(31.0, 49.0, 100).ids().length);
+        assertEquals(0, service.findByFaixa(50.0, 10.0, 100).ids().length);
+        assertEquals(5, service.findByFaixa(0, Double.POSITIVE_INFINITY, 100).ids().length);
+    }
+
+    @Test
+    void maisBaratosEmOrdemCrescente() {
+        GamePrecosResponse resposta = service.findMaisBaratos(3);
+
+        assertArrayEquals(new long[]{2, 3, 4}, resposta.ids());
+        assertArrayEquals(new double[]{10.0, 30.0, 30.0}, resposta.precos());
+    }
+
+    @Test
+    void maisCarosEmOrdemDecrescente() {
+        GamePrecosResponse resposta = service.findMaisCaros(3);
+
+        assertArrayEquals(new long[]{5, 1, 4}, resposta.ids());
+        assertArrayEquals(new double[]{70.0, 50.0, 30.0}, resposta.precos());
+        assertEquals(5, service.findMaisCaros(100).ids().length);
+    }
+
+    @Test
+    void alteracaoDePrecoNaoDuplicaOId() {
+        precos.registrar(1L, 5.0, 2);
+        // notificações repetidas ou fora de ordem são ignoradas
+        precos.registrar(1L, 5.0, 2);
+        precos.registrar(1L, 50.0, 1);
+
+        assertArrayEquals(new long[]{1, 2, 3, 4, 5}, service.findMaisBaratos(100).ids());
+        assertArrayEquals(new double[]{5.0, 10.0, 30.0, 30.0, 70.0}, service.findMaisBaratos(100).precos());
+    }
+
+    @Test
+    void reconciliacaoDoSnapshotAtualizaOIndice() {
+        precos.aoAlterarCatalogo(new CatalogoAlteradoEvent(List.of(
+                new Game(5L, "E", "e", 1.0, 2),
+                new Game(6L, "F", "f", 100.0, 1),
+                // mesma versão já conhecida: ignorado
+                new Game(2L, "B", "b", 99.0, 1))));
+
+        assertArrayEquals(new long[]{5, 2, 3, 4, 1, 6}, service.findMaisBaratos(100).ids());
+        assertArrayEquals(new double[]{1.0, 10.0, 30.0, 30.0, 50.0, 100.0}, service.findMaisBaratos(100).precos());
+    }
+}
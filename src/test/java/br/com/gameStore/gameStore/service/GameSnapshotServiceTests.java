@@ -0,0 +1,185 @@
+package br.com.gameStore.gameStore.service;
+
+import br.com.gameStore.gameStore.model.Game;
+import br.com.gameStore.gameStore.repository.GameRespository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+// Testes do GameSnapshotService sobre um diretório temporário, com o GameRespository simulado:
+// leituras servidas pelo arquivo mapeado, pendentes aplicados por cima, reconciliação por versão e o evento publicado.
+class GameSnapshotServiceTests {
+
+    @TempDir
+    Path diretorio;
+
+    private GameRespository gameRespository;
+    private ApplicationEventPublisher eventPublisher;
+    private GameSnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        gameRespository = mock(GameRespository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = novoService(diretorio.resolve("catalogo.snapshot"));
+    }
+
+    @Test
+    void nodoFrioLeOCatalogoInteiroEPassaAServirPeloSnapshot() {
+        List<Game> games = List.of(new Game(1L, "A", "a", 10, 1), new Game(2L, "B", null, 20, 1));
+        quandoBancoTiver(games);
+        when(gameRespository.findAll()).thenReturn(games);
+
+        assertTrue(service.findAll().isEmpty());
+        service.atualizar();
+
+        verify(gameRespository, never()).findAllById(any());
+        assertEquals(games, service.findAll().orElseThrow());
+        assertEquals(games.get(1), service.findById(2L).orElseThrow());
+        assertTrue(service.findById(3L).isEmpty());
+        assertEquals(games, eventoPublicado().alterados());
+    }
+
+    @Test
+    void reinicioMapeiaOUltimoSnapshotSemIrAoBanco() {
+        List<Game> games = List.of(new Game(1L, "A", "a", 10, 1), new Game(2L, "B", "b", 20, 3));
+        quandoBancoTiver(games);
+        when(gameRespository.findAll()).thenReturn(games);
+        service.atualizar();
+
+        GameRespository outroBanco = mock(GameRespository.class);
+        gameRespository = outroBanco;
+        GameSnapshotService reiniciado = novoService(diretorio.resolve("catalogo.snapshot"));
+        reiniciado.carregar();
+
+        assertEquals(games, reiniciado.findAll().orElseThrow());
+        assertEquals(games.get(1), reiniciado.findById(2L).orElseThrow());
+        verifyNoInteractions(outroBanco);
+    }
+
+    @Test
+    void pendentesAparecemPorCimaDoSnapshot() {
+        List<Game> games = List.of(new Game(1L, "A", "a", 10, 1), new Game(2L, "B", "b", 20, 1));
+        quandoBancoTiver(games);
+        when(gameRespository.findAll()).thenReturn(games);
+        service.atualizar();
+
+        Game alterado = new Game(1L, "A2", "a2", 15, 2);
+        Game novo = new Game(3L, "C", "c", 30, 0);
+        service.registrar(alterado);
+        service.registrar(novo);
+        // save concorrente mais antigo chegando depois: fica o de maior versão
+        service.registrar(new Game(1L, "velho", "velho", 1, 1));
+
+        assertEquals(List.of(alterado, games.get(1), novo), service.findAll().orElseThrow());
+        assertEquals(alterado, service.findById(1L).orElseThrow());
+        assertEquals(novo, service.findById(3L).orElseThrow());
+    }
+
+    @Test
+    void reconciliacaoBuscaApenasOsAlteradosEDescartaPendentesJaGravados() {
+        List<Game> iniciais = List.of(new Game(1L, "A", "a", 10, 1), new Game(2L, "B", "b", 20, 1));
+        quandoBancoTiver(iniciais);
+        when(gameRespository.findAll()).thenReturn(iniciais);
+        service.atualizar();
+        clearInvocations(eventPublisher);
+
+        Game alterado = new Game(1L, "A2", "a2", 15, 2);
+        Game novo = new Game(3L, "C", "c", 30, 0);
+        service.registrar(alterado);
+        // alterado de novo neste nó depois da leitura do banco: continua pendente após a reconciliação
+        Game maisNovo = new Game(2L, "B3", "b3", 25, 3);
+        service.registrar(maisNovo);
+        quandoBancoTiver(List.of(alterado, new Game(2L, "B2", "b2", 22, 2), novo));
+        when(gameRespository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(alterado, new Game(2L, "B2", "b2", 22, 2), novo));
+
+        service.atualizar();
+
+        verify(gameRespository).findAllById(List.of(1L, 2L, 3L));
+        assertEquals(List.of(alterado, maisNovo, novo), service.findAll().orElseThrow());
+        assertEquals(3, eventoPublicado().alterados().size());
+
+        // os pendentes já gravados com a mesma versão saem da memória; o de versão mais nova fica
+        assertEquals(Set.of(2L), ((Map<?, ?>) ReflectionTestUtils.getField(service, "pendentes")).keySet());
+        GameSnapshotService reiniciado = novoService(diretorio.resolve("catalogo.snapshot"));
+        reiniciado.carregar();
+        assertEquals(List.of(alterado, new Game(2L, "B2", "b2", 22, 2), novo), reiniciado.findAll().orElseThrow());
+    }
+
+    @Test
+    void semAlteracoesNaoGravaNemPublica() throws IOException {
+        List<Game> games = List.of(new Game(1L, "A", "a", 10, 1));
+        quandoBancoTiver(games);
+        when(gameRespository.findAll()).thenReturn(games);
+        service.atualizar();
+        clearInvocations(eventPublisher);
+
+        service.atualizar();
+
+        verify(gameRespository, never()).findAllById(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        try (var arquivos = Files.list(diretorio)) {
+            assertEquals(1, arquivos.count());
+        }
+    }
+
+    @Test
+    void falhaAoGravarMantemOsJogosRecarregadosNosPendentes() throws IOException {
+        // o "diretório" do snapshot é um arquivo comum: toda gravação falha
+        Path bloqueado = Files.createFile(diretorio.resolve("bloqueado"));
+        GameSnapshotService semDisco = novoService(bloqueado.resolve("catalogo.snapshot"));
+        List<Game> games = List.of(new Game(1L, "A", "a", 10, 4));
+        quandoBancoTiver(games);
+        when(gameRespository.findAll()).thenReturn(games);
+
+        semDisco.atualizar();
+
+        assertEquals(games.get(0), semDisco.findById(1L).orElseThrow());
+        assertEquals(games, eventoPublicado().alterados());
+    }
+
+    private GameSnapshotService novoService(Path arquivo) {
+        GameSnapshotService novo = new GameSnapshotService();
+        ReflectionTestUtils.setField(novo, "gameRespository", gameRespository);
+        ReflectionTestUtils.setField(novo, "eventPublisher", eventPublisher);
+        ReflectionTestUtils.setField(novo, "habilitado", true);
+        ReflectionTestUtils.setField(novo, "arquivo", arquivo);
+        return novo;
+    }
+
+    // simula findAllVersoes: pares (id, versao) ordenados por id
+    private void quandoBancoTiver(List<Game> games) {
+        List<Object[]> versoes = new ArrayList<>();
+        games.stream()
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .forEach(game -> versoes.add(new Object[]{game.getId(), game.getVersao()}));
+        when(gameRespository.findAllVersoes()).thenReturn(versoes);
+    }
+
+    private CatalogoAlteradoEvent eventoPublicado() {
+        ArgumentCaptor<Object> evento = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(evento.capture());
+        return (CatalogoAlteradoEvent) evento.getValue();
+    }
+}
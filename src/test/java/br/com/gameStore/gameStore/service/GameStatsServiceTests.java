@@ -0,0 +1,120 @@
+package br.com.gameStore.gameStore.service;
+
+import br.com.gameStore.gameStore.dto.GameStatsResponse;
+import br.com.gameStore.gameStore.model.Game;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// Testes das estatísticas incrementais (total, mínimo, máximo, média e histograma) alimentadas pelo GamePrecosService.
+class GameStatsServiceTests {
+
+    private GameStatsService service;
+    private GamePrecosService precos;
+
+    @BeforeEach
+    void setUp() {
+        service = new GameStatsService(new double[]{20, 50});
+        precos = new GamePrecosService(service, new GamePrecoIndexService());
+    }
+
+    @Test
+    void catalogoVazio() {
+        GameStatsResponse stats = service.getStats();
+
+        assertEquals(0, stats.total());
+        assertNull(stats.precoMinimo());
+        assertNull(stats.precoMaximo());
+        assertNull(stats.precoMedio());
+        assertEquals(List.of(
+                new GameStatsResponse.FaixaPreco(0, 20.0, 0),
+                new GameStatsResponse.FaixaPreco(20, 50.0, 0),
+                new GameStatsResponse.FaixaPreco(50, null, 0)), stats.histograma());
+    }
+
+    @Test
+    void inclusaoEAlteracao() {
+        precos.registrar(1L, 10.0, 1);
+        precos.registrar(2L, 30.0, 1);
+        precos.registrar(1L, 60.0, 2);
+
+        GameStatsResponse stats = service.getStats();
+        assertEquals(2, stats.total());
+        assertEquals(30.0, stats.precoMinimo());
+        assertEquals(60.0, stats.precoMaximo());
+        assertEquals(45.0, stats.precoMedio());
+        assertEquals(List.of(0L, 1L, 1L), quantidades(stats));
+    }
+
+    @Test
+    void versaoMenorOuIgualEIgnorada() {
+        precos.registrar(1L, 10.0, 2);
+        precos.registrar(1L, 99.0, 2);
+        precos.registrar(1L, 99.0, 1);
+
+        GameStatsResponse stats = service.getStats();
+        assertEquals(1, stats.total());
+        assertEquals(10.0, stats.precoMinimo());
+        assertEquals(10.0, stats.precoMaximo());
+    }
+
+    @Test
+    void minimoEMaximoQuandoOExtremoMuda() {
+        precos.registrar(1L, 10.0, 1);
+        precos.registrar(2L, 10.0, 1);
+        precos.registrar(3L, 40.0, 1);
+        precos.registrar(4L, 90.0, 1);
+
+        // um dos dois jogos com o preço mínimo muda: o mínimo continua 10
+        precos.registrar(1L, 40.0, 2);
+        assertEquals(10.0, service.getStats().precoMinimo());
+
+        // o último jogo com o preço mínimo muda: o mínimo passa ao próximo preço
+        precos.registrar(2L, 40.0, 2);
+        assertEquals(40.0, service.getStats().precoMinimo());
+
+        // o único jogo com o preço máximo fica mais barato
+        precos.registrar(4L, 15.0, 2);
+        GameStatsResponse stats = service.getStats();
+        assertEquals(15.0, stats.precoMinimo());
+        assertEquals(40.0, stats.precoMaximo());
+    }
+
+    @Test
+    void precoIgualAoLimiteCaiNaFaixaDeCima() {
+        precos.registrar(1L, 0.0, 1);
+        precos.registrar(2L, 19.99, 1);
+        precos.registrar(3L, 20.0, 1);
+        precos.registrar(4L, 50.0, 1);
+        precos.registrar(5L, 1000.0, 1);
+
+        assertEquals(List.of(2L, 1L, 2L), quantidades(service.getStats()));
+    }
+
+    @Test
+    void reconciliacaoDoSnapshot() {
+        precos.registrar(1L, 10.0, 1);
+        precos.registrar(2L, 30.0, 3);
+
+        precos.aoAlterarCatalogo(new CatalogoAlteradoEvent(List.of(
+                new Game(1L, "A", "a", 70.0, 2),
+                new Game(3L, "C", "c", 25.0, 1),
+                // versão mais antiga que a já registrada: ignorado
+                new Game(2L, "B", "b", 5.0, 2))));
+
+        GameStatsResponse stats = service.getStats();
+        assertEquals(3, stats.total());
+        assertEquals(25.0, stats.precoMinimo());
+        assertEquals(70.0, stats.precoMaximo());
+        assertEquals(125.0 / 3, stats.precoMedio(), 1e-9);
+        assertEquals(List.of(0L, 2L, 1L), quantidades(stats));
+    }
+
+    private static List<Long> quantidades(GameStatsResponse stats) {
+        return stats.histograma().stream().map(GameStatsResponse.FaixaPreco::quantidade).toList();
+    }
+}